@@ -15,5 +15,27 @@ dependencies {
 }
 
 tasks.test {
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("footprint")
+    }
+}
+
+tasks.register<Test>("footprintTest") {
+    description = "Reports retained heap bytes per live match."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("footprint")
+    }
+    maxHeapSize = "2g"
+    testLogging.showStandardStreams = true
+}
+
+tasks.register<JavaExec>("analyzeRecording") {
+    description = "Summarizes Live Scoreboard events of the JFR recording, use -Precording=<file>."
+    group = "application"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("org.sportradar.soccer.worldcup.ScoreboardRecordingAnalyzer")
+    args(providers.gradleProperty("recording").getOrElse("scoreboard.jfr"))
 }
\ No newline at end of file
@@ -0,0 +1,392 @@
+package org.sportradar.soccer.worldcup;
+
+import java.time.Instant;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ Internal storage of LiveScoreboard matches.
+
+ Live matches are indexed by home team id from the TeamDictionary, there is no separate key object
+ per match. Team is live only as long as its name is in the dictionary, which replaces the set of
+ live teams.
+
+ All matches and matches of every group are kept in separate ordered views, each write updates
+ only affected views in O(log n). Summary of the view is kept as a cache and rebuilt on the first
+ read after the view was modified.
+
+ Write operations, contended lock waits and summary publications are recorded as JFR events.
+*/
+class InMemoryMatchRepository {
+  // home team id is unique among live matches, it makes the order total
+  private static final Comparator<Match> matchComparator =
+      Collections.reverseOrder(
+          Comparator.comparingInt(Match::getTotalScore)
+              .thenComparingLong(Match::getStartingTimeNanos)
+              .thenComparingInt(Match::getHomeTeamId));
+
+  private final ReentrantLock lock;
+  private final TeamDictionary teams = new TeamDictionary();
+  private Match[] matchesByHomeTeamId = new Match[16];
+  private OrderedView[] groupViewsByHomeTeamId = new OrderedView[16];
+
+  private final OrderedView allMatches = new OrderedView(null);
+  private final Map<String, OrderedView> groupViews = new ConcurrentHashMap<>();
+
+  InMemoryMatchRepository() {
+    this(new ReentrantLock());
+  }
+
+  // lock can be held by tests to make the repository operations wait for it
+  InMemoryMatchRepository(final ReentrantLock lock) {
+    this.lock = lock;
+  }
+
+  void create(
+      final String homeTeam, final String awayTeam, final String group, final Instant startTime) {
+    MatchWriteEvent event = new MatchWriteEvent();
+    event.begin();
+    lock("startMatch");
+    try {
+      checkIfTeamAlreadyInAMatch(homeTeam);
+      checkIfTeamAlreadyInAMatch(awayTeam);
+      Match match = Match.of(homeTeam, awayTeam, startTime, teams);
+      long reindexStart = System.nanoTime();
+      index(match, group);
+      allMatches.add(match);
+      OrderedView groupView = groupViewsByHomeTeamId[match.getHomeTeamId()];
+      if (groupView != null) {
+        groupView.add(match);
+      }
+      event.commit(
+          "startMatch",
+          homeTeam,
+          awayTeam,
+          allMatches.matches.size(),
+          System.nanoTime() - reindexStart);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /*
+   All matches are validated before the board is modified and published together, readers never
+   see partially loaded board. Matches are sorted with one parallel sort and every ordered view
+   which was empty before the load is rebuilt from its sorted matches with TreeSet(SortedSet).
+  */
+  void createAll(final List<MatchBulkLoader.Entry> entries) {
+    MatchWriteEvent event = new MatchWriteEvent();
+    event.begin();
+    lock("loadMatches");
+    try {
+      for (MatchBulkLoader.Entry entry : entries) {
+        checkIfTeamAlreadyInAMatch(entry.homeTeam());
+        checkIfTeamAlreadyInAMatch(entry.awayTeam());
+      }
+      Match[] matches = new Match[entries.size()];
+      for (int index = 0; index < matches.length; index++) {
+        MatchBulkLoader.Entry entry = entries.get(index);
+        matches[index] =
+            Match.of(
+                entry.homeTeam(),
+                entry.awayTeam(),
+                entry.startingTimeNanos(),
+                entry.homeScore(),
+                entry.awayScore(),
+                teams);
+        index(matches[index], entry.group());
+      }
+      long reindexStart = System.nanoTime();
+      Arrays.parallelSort(matches, matchComparator);
+      Map<OrderedView, List<Match>> matchesByGroupView = new HashMap<>();
+      for (Match match : matches) {
+        OrderedView groupView = groupViewsByHomeTeamId[match.getHomeTeamId()];
+        if (groupView != null) {
+          matchesByGroupView.computeIfAbsent(groupView, view -> new ArrayList<>()).add(match);
+        }
+      }
+      allMatches.addAll(Arrays.asList(matches));
+      matchesByGroupView.forEach(OrderedView::addAll);
+      event.commit(
+          "loadMatches", null, null, allMatches.matches.size(), System.nanoTime() - reindexStart);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void save(final Match match) {
+    MatchWriteEvent event = new MatchWriteEvent();
+    event.begin();
+    lock("updateScore");
+    try {
+      int homeTeamId = match.getHomeTeamId();
+      Match savedMatch = findByHomeTeamId(homeTeamId);
+      // match could be finished in the meantime, it must not be brought back to the board
+      if (match.equals(savedMatch)) {
+        long reindexStart = System.nanoTime();
+        matchesByHomeTeamId[homeTeamId] = match;
+        allMatches.replace(savedMatch, match);
+        OrderedView groupView = groupViewsByHomeTeamId[homeTeamId];
+        if (groupView != null) {
+          groupView.replace(savedMatch, match);
+        }
+        event.commit(
+            "updateScore",
+            teams.nameOf(homeTeamId),
+            teams.nameOf(match.getAwayTeamId()),
+            allMatches.matches.size(),
+            System.nanoTime() - reindexStart);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void deleteByHomeTeamAndAwayTeam(final String homeTeam, final String awayTeam) {
+    MatchWriteEvent event = new MatchWriteEvent();
+    event.begin();
+    lock("finishMatch");
+    try {
+      Match match = findLiveMatch(homeTeam, awayTeam);
+      if (match == null) {
+        return;
+      }
+      long reindexStart = System.nanoTime();
+      int homeTeamId = match.getHomeTeamId();
+      matchesByHomeTeamId[homeTeamId] = null;
+      allMatches.remove(match);
+      OrderedView groupView = groupViewsByHomeTeamId[homeTeamId];
+      if (groupView != null) {
+        groupViewsByHomeTeamId[homeTeamId] = null;
+        groupView.remove(match);
+        if (groupView.isEmpty()) {
+          groupViews.remove(groupView.group);
+        }
+      }
+      teams.release(homeTeamId);
+      teams.release(match.getAwayTeamId());
+      event.commit(
+          "finishMatch",
+          homeTeam,
+          awayTeam,
+          allMatches.matches.size(),
+          System.nanoTime() - reindexStart);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  Optional<Match> findByHomeTeamAndAwayTeam(final String homeTeam, final String awayTeam) {
+    // lookup of the match to update, it waits for the lock as part of updateScore
+    lock("updateScore");
+    try {
+      return Optional.ofNullable(findLiveMatch(homeTeam, awayTeam));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  Summary findAllOrderedByTotalScoreAndStartingTime() {
+    return allMatches.getSummary();
+  }
+
+  Summary findAllByGroupOrderedByTotalScoreAndStartingTime(final String group) {
+    OrderedView groupView = groupViews.get(group);
+    return groupView == null ? Summary.of() : groupView.getSummary();
+  }
+
+  private void index(final Match match, final String group) {
+    int homeTeamId = match.getHomeTeamId();
+    if (homeTeamId >= matchesByHomeTeamId.length) {
+      int newLength = Math.max(homeTeamId + 1, matchesByHomeTeamId.length * 2);
+      matchesByHomeTeamId = Arrays.copyOf(matchesByHomeTeamId, newLength);
+      groupViewsByHomeTeamId = Arrays.copyOf(groupViewsByHomeTeamId, newLength);
+    }
+    matchesByHomeTeamId[homeTeamId] = match;
+    if (group != null) {
+      groupViewsByHomeTeamId[homeTeamId] = groupViews.computeIfAbsent(group, OrderedView::new);
+    }
+  }
+
+  private void lock(final String operation) {
+    if (lock.tryLock()) {
+      return;
+    }
+    LockWaitEvent event = new LockWaitEvent();
+    event.begin();
+    lock.lock();
+    event.commit(operation, lock.getQueueLength());
+  }
+
+  private Match findLiveMatch(final String homeTeam, final String awayTeam) {
+    Match match = findByHomeTeamId(teams.idOf(homeTeam));
+    if (match == null || match.getAwayTeamId() != teams.idOf(awayTeam)) {
+      return null;
+    }
+    return match;
+  }
+
+  private Match findByHomeTeamId(final int homeTeamId) {
+    if (homeTeamId < 0 || homeTeamId >= matchesByHomeTeamId.length) {
+      return null;
+    }
+    return matchesByHomeTeamId[homeTeamId];
+  }
+
+  private void checkIfTeamAlreadyInAMatch(final String teamName) {
+    if (teams.contains(teamName)) {
+      throw new IllegalStateException(
+          String.format(
+              "There is already ongoing match for a team on the scoreboard: %s", teamName));
+    }
+  }
+
+  // modified only under the repository lock
+  private class OrderedView {
+    private final String group;
+    private NavigableSet<Match> matches = new TreeSet<>(matchComparator);
+
+    private volatile Summary summary = Summary.of();
+    private volatile boolean summaryOutdated;
+
+    OrderedView(final String group) {
+      this.group = group;
+    }
+
+    void add(final Match match) {
+      matches.add(match);
+      summaryOutdated = true;
+    }
+
+    // empty view is replaced by TreeSet built from the sorted matches, without comparisons
+    void addAll(final List<Match> sortedMatches) {
+      if (matches.isEmpty()) {
+        matches = new TreeSet<>(new SortedMatches(sortedMatches));
+      } else {
+        sortedMatches.forEach(matches::add);
+      }
+      summaryOutdated = true;
+    }
+
+    void remove(final Match match) {
+      matches.remove(match);
+      summaryOutdated = true;
+    }
+
+    void replace(final Match oldMatch, final Match newMatch) {
+      matches.remove(oldMatch);
+      matches.add(newMatch);
+      summaryOutdated = true;
+    }
+
+    boolean isEmpty() {
+      return matches.isEmpty();
+    }
+
+    Summary getSummary() {
+      if (summaryOutdated) {
+        reloadSummary();
+      }
+      return summary;
+    }
+
+    private void reloadSummary() {
+      SummaryPublicationEvent event = new SummaryPublicationEvent();
+      event.begin();
+      lock("getSummary");
+      try {
+        if (summaryOutdated) {
+          summary = Summary.from(matches, teams);
+          summaryOutdated = false;
+          event.commit(group, matches.size());
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  // read-only SortedSet over the list sorted with the view comparator
+  private static class SortedMatches extends AbstractSet<Match> implements SortedSet<Match> {
+    private final List<Match> matches;
+
+    SortedMatches(final List<Match> matches) {
+      this.matches = matches;
+    }
+
+    @Override
+    public Iterator<Match> iterator() {
+      return Collections.unmodifiableList(matches).iterator();
+    }
+
+    @Override
+    public int size() {
+      return matches.size();
+    }
+
+    @Override
+    public Comparator<? super Match> comparator() {
+      return matchComparator;
+    }
+
+    @Override
+    public Match first() {
+      if (matches.isEmpty()) {
+        throw new NoSuchElementException();
+      }
+      return matches.get(0);
+    }
+
+    @Override
+    public Match last() {
+      if (matches.isEmpty()) {
+        throw new NoSuchElementException();
+      }
+      return matches.get(matches.size() - 1);
+    }
+
+    @Override
+    public boolean contains(final Object object) {
+      return object instanceof Match match
+          && Collections.binarySearch(matches, match, matchComparator) >= 0;
+    }
+
+    @Override
+    public SortedSet<Match> subSet(final Match fromElement, final Match toElement) {
+      if (matchComparator.compare(fromElement, toElement) > 0) {
+        throw new IllegalArgumentException("fromElement is greater than toElement");
+      }
+      return new SortedMatches(matches.subList(indexOf(fromElement), indexOf(toElement)));
+    }
+
+    @Override
+    public SortedSet<Match> headSet(final Match toElement) {
+      return new SortedMatches(matches.subList(0, indexOf(toElement)));
+    }
+
+    @Override
+    public SortedSet<Match> tailSet(final Match fromElement) {
+      return new SortedMatches(matches.subList(indexOf(fromElement), matches.size()));
+    }
+
+    // index of the element or of the first greater one
+    private int indexOf(final Match element) {
+      int index = Collections.binarySearch(matches, element, matchComparator);
+      return index >= 0 ? index : -index - 1;
+    }
+  }
+}
@@ -1,16 +1,11 @@
 package org.sportradar.soccer.worldcup;
 
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.Clock;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * LiveScoreboard provides functionalities of real time soccer scoreboard. With functions of
@@ -39,6 +34,28 @@ import java.util.stream.Stream;
  * @author krzysztofkoper
  */
 public class LiveScoreboard {
+  /**
+   * Format of the feed for {@link #loadMatches(FeedFormat, InputStream...)}.
+   *
+   * @since 1.1
+   */
+  public enum FeedFormat {
+    /**
+     * One match per line: {@code homeTeam,awayTeam[,homeScore,awayScore[,startingTime[,group]]]},
+     * starting time is ISO-8601 instant.
+     */
+    CSV,
+    /**
+     * Binary feed written with {@link java.io.DataOutputStream}: {@code int} magic {@code
+     * 0x4C534231} ("LSB1") followed by records until the end of the stream, each record being
+     * {@code writeUTF} home team, {@code writeUTF} away team, unsigned {@code short} home score,
+     * unsigned {@code short} away score, {@code long} starting time in epoch nanos ({@link
+     * Long#MIN_VALUE} when not known) and {@code writeUTF} group (empty for none). Truncated or
+     * malformed feed is rejected with {@link IllegalArgumentException}.
+     */
+    BINARY
+  }
+
   private final Clock clock;
 
   private final InMemoryMatchRepository inMemoryRepository;
@@ -63,9 +80,54 @@ public class LiveScoreboard {
    */
   public void startMatch(final String homeTeam, final String awayTeam) {
     checkTeamNames(homeTeam, awayTeam);
-    checkIfTeamAlreadyInAMatch(homeTeam);
-    checkIfTeamAlreadyInAMatch(awayTeam);
-    inMemoryRepository.save(Match.of(homeTeam, awayTeam, clock.instant()));
+    inMemoryRepository.create(homeTeam, awayTeam, null, clock.instant());
+  }
+
+  /**
+   * Starting new match of the group at this particular moment and adds it to the scoreboard.
+   *
+   * <p>Group is any tag (stage, group, competition) the match belongs to. Summary of the group
+   * matches is provided by {@link #getSummary(String)}.
+   *
+   * @throws IllegalArgumentException - when null parameters are passed or group is blank
+   * @throws IllegalStateException - when provided team is already part of other match on the
+   *     scoreboard
+   * @param homeTeam - home team name
+   * @param awayTeam - away team name
+   * @param group - group of the match, e.g. "Group A"
+   * @since 1.1
+   */
+  public void startMatch(final String homeTeam, final String awayTeam, final String group) {
+    checkTeamNames(homeTeam, awayTeam);
+    checkGroup(group);
+    inMemoryRepository.create(homeTeam, awayTeam, group, clock.instant());
+  }
+
+  /**
+   * Starts all matches from the feeds at once, with their current scores.
+   *
+   * <p>Feeds are parsed in parallel and all the matches are published to the board together, in
+   * case of any error none of them is added. Matches without starting time in the feed are started
+   * at this particular moment, in the order of the feeds and their lines.
+   *
+   * @throws IllegalArgumentException - when null parameters are passed, feed is malformed or any of
+   *     the matches is invalid
+   * @throws IllegalStateException - when team is part of more than one loaded match or is already
+   *     part of other match on the scoreboard
+   * @throws UncheckedIOException - when feed cannot be read
+   * @param format - format of the feeds
+   * @param feeds - feeds with the matches, they are read till the end but not closed
+   * @since 1.1
+   */
+  public void loadMatches(final FeedFormat format, final InputStream... feeds) {
+    if (Objects.isNull(format)) {
+      throw new IllegalArgumentException("Provided feed format cannot be null");
+    }
+    if (Objects.isNull(feeds) || Arrays.stream(feeds).anyMatch(Objects::isNull)) {
+      throw new IllegalArgumentException(
+          String.format("Provided feeds cannot be null, provided: %s", Arrays.toString(feeds)));
+    }
+    inMemoryRepository.createAll(MatchBulkLoader.read(format, List.of(feeds), clock.instant()));
   }
 
   /**
@@ -87,7 +149,8 @@ public class LiveScoreboard {
    * Updates score for a match on the board.
    *
    * @throws IllegalArgumentException - when null parameters are passed
-   * @throws IllegalArgumentException - when provided scores are negative values
+   * @throws IllegalArgumentException - when provided scores are negative values or greater than
+   *     65535
    * @throws IllegalStateException - when match does not exist on the scoreboard
    * @param homeTeam - home team name
    * @param awayTeam - away team name
@@ -116,7 +179,23 @@ public class LiveScoreboard {
    * @return Summary
    */
   public Summary getSummary() {
-    return Summary.from(inMemoryRepository.findAllOrderedByTotalScoreAndStartingTime());
+    return inMemoryRepository.findAllOrderedByTotalScoreAndStartingTime();
+  }
+
+  /**
+   * Returns actual summary of the current scores of the group matches that are on the board.
+   *
+   * <p>Scores are ordered in the same way as in {@link #getSummary()}. When there is no match of
+   * the group on the board, summary is empty.
+   *
+   * @throws IllegalArgumentException - when null or blank group is passed
+   * @param group - group of the matches, as provided to {@link #startMatch(String, String, String)}
+   * @return Summary
+   * @since 1.1
+   */
+  public Summary getSummary(final String group) {
+    checkGroup(group);
+    return inMemoryRepository.findAllByGroupOrderedByTotalScoreAndStartingTime(group);
   }
 
   private static void checkTeamNames(final String homeTeam, final String awayTeam) {
@@ -128,65 +207,10 @@ public class LiveScoreboard {
     }
   }
 
-  private void checkIfTeamAlreadyInAMatch(final String teamName) {
-    if (inMemoryRepository.existsForATeam(teamName)) {
-      throw new IllegalStateException(
-          String.format(
-              "There is already ongoing match for a team on the scoreboard: %s", teamName));
-    }
-  }
-
-  private static class InMemoryMatchRepository {
-    private List<Match> liveMatchesInOrder = Collections.emptyList();
-    private Set<String> liveTeams = Collections.emptySet();
-    private final Map<String, Match> keyToMatchMap = Collections.synchronizedMap(new HashMap<>());
-
-    private static final Comparator<Match> matchComparator =
-        Collections.reverseOrder(
-            (match1, match2) -> {
-              int totalScoreComparison = match1.getTotalScore().compareTo(match2.getTotalScore());
-              if (totalScoreComparison == 0) {
-                return match1.getStartingTime().compareTo(match2.getStartingTime());
-              }
-              return totalScoreComparison;
-            });
-
-    void save(final Match match) {
-      keyToMatchMap.put(generateKey(match), match);
-      reloadLiveData();
-    }
-
-    void deleteByHomeTeamAndAwayTeam(final String homeTeam, final String awayTeam) {
-      keyToMatchMap.remove(generateKey(homeTeam, awayTeam));
-      reloadLiveData();
-    }
-
-    Optional<Match> findByHomeTeamAndAwayTeam(final String homeTeam, final String awayTeam) {
-      return Optional.ofNullable(keyToMatchMap.get(generateKey(homeTeam, awayTeam)));
-    }
-
-    boolean existsForATeam(final String teamName) {
-      return liveTeams.contains(teamName);
-    }
-
-    List<Match> findAllOrderedByTotalScoreAndStartingTime() {
-      return liveMatchesInOrder;
-    }
-
-    private synchronized void reloadLiveData() {
-      liveMatchesInOrder = keyToMatchMap.values().stream().sorted(matchComparator).toList();
-      liveTeams =
-          liveMatchesInOrder.stream()
-              .flatMap(match -> Stream.of(match.getHomeTeam(), match.getAwayTeam()))
-              .collect(Collectors.toUnmodifiableSet());
-    }
-
-    private static String generateKey(final Match match) {
-      return generateKey(match.getHomeTeam(), match.getAwayTeam());
-    }
-
-    private static String generateKey(final String homeTeam, final String awayTeam) {
-      return homeTeam + "-" + awayTeam;
+  static void checkGroup(final String group) {
+    if (Objects.isNull(group) || group.isBlank()) {
+      throw new IllegalArgumentException(
+          String.format("Provided group cannot be null or blank, provided: %s", group));
     }
   }
 }
@@ -0,0 +1,36 @@
+package org.sportradar.soccer.worldcup;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/*
+ JFR event recorded when the repository lock was not acquired immediately, its duration is the
+ time spent waiting for the lock.
+*/
+@Name(LockWaitEvent.NAME)
+@Label("Lock Wait")
+@Description("Contended wait for the live scoreboard repository lock")
+@Category("Live Scoreboard")
+@Threshold("1 ms")
+class LockWaitEvent extends jdk.jfr.Event {
+  static final String NAME = "org.sportradar.soccer.worldcup.LockWait";
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Queue Length")
+  @Description("Estimated number of threads waiting for the lock when it was acquired")
+  int queueLength;
+
+  void commit(final String operation, final int queueLength) {
+    end();
+    if (shouldCommit()) {
+      this.operation = operation;
+      this.queueLength = queueLength;
+      commit();
+    }
+  }
+}
@@ -1,59 +1,86 @@
 package org.sportradar.soccer.worldcup;
 
 import java.time.Instant;
-import java.util.Objects;
 
+/*
+ Compact, immutable representation of the match: teams are kept as TeamDictionary ids, starting
+ time as epoch nanos and both scores are packed into single int (home score in upper 16 bits).
+*/
 class Match {
-  private final String homeTeam;
-  private final String awayTeam;
-  private final Instant startingTime;
-  private int homeScore;
-  private int awayScore;
+  static final int MAX_SCORE = 0xFFFF;
+  private static final int SCORE_BITS = 16;
 
-  static Match of(String homeTeam, String awayTeam, Instant startingTime) {
-    return new Match(homeTeam, awayTeam, startingTime);
+  private final int homeTeamId;
+  private final int awayTeamId;
+  private final long startingTimeNanos;
+  private final int score;
+
+  static Match of(String homeTeam, String awayTeam, Instant startingTime, TeamDictionary teams) {
+    return of(homeTeam, awayTeam, toEpochNanos(startingTime), 0, 0, teams);
   }
 
-  Match(String homeTeam, String awayTeam, Instant startingTime) {
+  // everything is validated before team names are interned in the dictionary
+  static Match of(
+      String homeTeam,
+      String awayTeam,
+      long startingTimeNanos,
+      int homeScore,
+      int awayScore,
+      TeamDictionary teams) {
     checkTeamNames(homeTeam, awayTeam);
-    this.homeTeam = homeTeam;
-    this.awayTeam = awayTeam;
-    this.startingTime = startingTime;
+    checkScore(homeScore);
+    checkScore(awayScore);
+    return new Match(
+        teams.intern(homeTeam),
+        teams.intern(awayTeam),
+        startingTimeNanos,
+        (homeScore << SCORE_BITS) | awayScore);
+  }
+
+  private Match(int homeTeamId, int awayTeamId, long startingTimeNanos, int score) {
+    this.homeTeamId = homeTeamId;
+    this.awayTeamId = awayTeamId;
+    this.startingTimeNanos = startingTimeNanos;
+    this.score = score;
   }
 
-  String getHomeTeam() {
-    return homeTeam;
+  int getHomeTeamId() {
+    return homeTeamId;
   }
 
-  String getAwayTeam() {
-    return awayTeam;
+  int getAwayTeamId() {
+    return awayTeamId;
   }
 
-  Instant getStartingTime() {
-    return startingTime;
+  long getStartingTimeNanos() {
+    return startingTimeNanos;
   }
 
   int getHomeScore() {
-    return homeScore;
+    return score >>> SCORE_BITS;
   }
 
   int getAwayScore() {
-    return awayScore;
+    return score & MAX_SCORE;
   }
 
-  Integer getTotalScore() {
-    return homeScore + awayScore;
+  int getTotalScore() {
+    return getHomeScore() + getAwayScore();
   }
 
   Match updateScore(final int homeScore, final int awayScore) {
     checkScore(homeScore);
     checkScore(awayScore);
-    this.homeScore = homeScore;
-    this.awayScore = awayScore;
-    return this;
+    return new Match(
+        homeTeamId, awayTeamId, startingTimeNanos, (homeScore << SCORE_BITS) | awayScore);
   }
 
-  private static void checkTeamNames(String homeTeam, String awayTeam) {
+  static long toEpochNanos(Instant instant) {
+    return Math.addExact(
+        Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+  }
+
+  static void checkTeamNames(String homeTeam, String awayTeam) {
     checkTeamName(homeTeam);
     checkTeamName(awayTeam);
     if (homeTeam.equals(awayTeam)) {
@@ -71,11 +98,16 @@ class Match {
     }
   }
 
-  private static void checkScore(int score) {
+  static void checkScore(int score) {
     if (score < 0) {
       throw new IllegalArgumentException(
               String.format("Team score cannot be negative number, provided: %d", score));
     }
+    if (score > MAX_SCORE) {
+      throw new IllegalArgumentException(
+              String.format(
+                      "Team score cannot be greater than %d, provided: %d", MAX_SCORE, score));
+    }
   }
 
   @Override
@@ -83,13 +115,13 @@ class Match {
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     Match match = (Match) o;
-    return Objects.equals(homeTeam, match.homeTeam)
-        && Objects.equals(awayTeam, match.awayTeam)
-        && Objects.equals(startingTime, match.startingTime);
+    return homeTeamId == match.homeTeamId
+        && awayTeamId == match.awayTeamId
+        && startingTimeNanos == match.startingTimeNanos;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(homeTeam, awayTeam, startingTime);
+    return 31 * (31 * homeTeamId + awayTeamId) + Long.hashCode(startingTimeNanos);
   }
 }
@@ -0,0 +1,271 @@
+package org.sportradar.soccer.worldcup;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UTFDataFormatException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ Reads matches from the feeds for LiveScoreboard bulk load.
+
+ Every feed is read and parsed in its own fork/join task, CSV feed is additionally split into line
+ aligned chunks parsed in parallel. Team conflicts inside the load are validated in parallel with
+ concurrent team index, before anything is published to the board.
+
+ CSV line: homeTeam,awayTeam[,homeScore,awayScore[,startingTime[,group]]]
+   scores default to 0, startingTime is ISO-8601 instant, empty lines and lines starting with #
+   are skipped
+
+ Binary feed: int magic "LSB1" followed by records until the end of the stream
+   UTF homeTeam, UTF awayTeam, unsigned short homeScore, unsigned short awayScore,
+   long startingTime epoch nanos (Long.MIN_VALUE when not known), UTF group (empty for none)
+
+ Matches without starting time are treated as started at the moment of the load, in the order of
+ the feeds and their lines, the last one being the most recent.
+*/
+class MatchBulkLoader {
+  static final int BINARY_MAGIC = 0x4C534231;
+  static final long NO_STARTING_TIME = Long.MIN_VALUE;
+
+  private static final int CSV_CHUNK_SIZE = 1 << 16;
+
+  private final LiveScoreboard.FeedFormat format;
+  private final Set<String> teamIndex = ConcurrentHashMap.newKeySet();
+  // exceptions thrown in fork/join workers would be wrapped when rethrown, first one is kept here
+  private final AtomicReference<RuntimeException> firstError = new AtomicReference<>();
+
+  private MatchBulkLoader(final LiveScoreboard.FeedFormat format) {
+    this.format = format;
+  }
+
+  static List<Entry> read(
+      final LiveScoreboard.FeedFormat format,
+      final List<InputStream> feeds,
+      final Instant loadTime) {
+    return new MatchBulkLoader(format).read(feeds, loadTime);
+  }
+
+  private List<Entry> read(final List<InputStream> feeds, final Instant loadTime) {
+    List<FeedTask> tasks = feeds.stream().map(FeedTask::new).toList();
+    List<Entry> entries = new ArrayList<>();
+    ForkJoinTask.invokeAll(tasks).forEach(task -> entries.addAll(task.join()));
+    throwFirstError();
+    entries.parallelStream().forEach(this::validate);
+    throwFirstError();
+    assignMissingStartingTimes(entries, Match.toEpochNanos(loadTime));
+    return entries;
+  }
+
+  private void validate(final Entry entry) {
+    try {
+      Match.checkTeamNames(entry.homeTeam(), entry.awayTeam());
+      Match.checkScore(entry.homeScore());
+      Match.checkScore(entry.awayScore());
+      if (entry.group() != null) {
+        LiveScoreboard.checkGroup(entry.group());
+      }
+      checkIfTeamAlreadyLoaded(entry.homeTeam());
+      checkIfTeamAlreadyLoaded(entry.awayTeam());
+    } catch (IllegalArgumentException | IllegalStateException exception) {
+      firstError.compareAndSet(null, exception);
+    }
+  }
+
+  private void checkIfTeamAlreadyLoaded(final String teamName) {
+    if (!teamIndex.add(teamName)) {
+      throw new IllegalStateException(
+          String.format("Team is part of more than one match in the loaded feeds: %s", teamName));
+    }
+  }
+
+  private void throwFirstError() {
+    RuntimeException error = firstError.get();
+    if (error != null) {
+      throw error;
+    }
+  }
+
+  private static void assignMissingStartingTimes(final List<Entry> entries, final long loadNanos) {
+    int size = entries.size();
+    for (int index = 0; index < size; index++) {
+      Entry entry = entries.get(index);
+      if (entry.startingTimeNanos() == NO_STARTING_TIME) {
+        entries.set(index, entry.startedAt(loadNanos - (size - 1 - index)));
+      }
+    }
+  }
+
+  private static Entry parseCsvLine(final String line) {
+    String[] columns = line.split(",", -1);
+    // both scores are given or none of them
+    if (columns.length < 2 || columns.length == 3 || columns.length > 6) {
+      throw malformedLine(line);
+    }
+    try {
+      return new Entry(
+          columns[0],
+          columns[1],
+          columns.length > 2 ? Integer.parseInt(columns[2]) : 0,
+          columns.length > 3 ? Integer.parseInt(columns[3]) : 0,
+          columns.length > 4 && !columns[4].isEmpty()
+              ? Match.toEpochNanos(Instant.parse(columns[4]))
+              : NO_STARTING_TIME,
+          columns.length > 5 && !columns[5].isEmpty() ? columns[5] : null);
+    } catch (NumberFormatException | DateTimeException | ArithmeticException exception) {
+      throw malformedLine(line);
+    }
+  }
+
+  private static IllegalArgumentException malformedLine(final String line) {
+    return new IllegalArgumentException(
+        String.format("Malformed line of the match feed: %s", line));
+  }
+
+  private static List<Entry> parseBinary(final byte[] bytes) {
+    List<Entry> entries = new ArrayList<>();
+    DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+    try {
+      int magic = input.readInt();
+      if (magic != BINARY_MAGIC) {
+        throw new IllegalArgumentException(
+            String.format("Binary match feed has unexpected header: %08x", magic));
+      }
+      while (input.available() > 0) {
+        String homeTeam = input.readUTF();
+        String awayTeam = input.readUTF();
+        int homeScore = input.readUnsignedShort();
+        int awayScore = input.readUnsignedShort();
+        long startingTimeNanos = input.readLong();
+        String group = input.readUTF();
+        entries.add(
+            new Entry(
+                homeTeam,
+                awayTeam,
+                homeScore,
+                awayScore,
+                startingTimeNanos,
+                group.isEmpty() ? null : group));
+      }
+    } catch (EOFException | UTFDataFormatException exception) {
+      throw new IllegalArgumentException("Binary match feed is truncated or malformed", exception);
+    } catch (IOException exception) {
+      // reading from byte array cannot fail in other way
+      throw new UncheckedIOException(exception);
+    }
+    return entries;
+  }
+
+  record Entry(
+      String homeTeam,
+      String awayTeam,
+      int homeScore,
+      int awayScore,
+      long startingTimeNanos,
+      String group) {
+    Entry startedAt(final long startingTimeNanos) {
+      return new Entry(homeTeam, awayTeam, homeScore, awayScore, startingTimeNanos, group);
+    }
+  }
+
+  // tasks are never serialized
+  @SuppressWarnings("serial")
+  private class FeedTask extends RecursiveTask<List<Entry>> {
+    private final InputStream feed;
+
+    FeedTask(final InputStream feed) {
+      this.feed = feed;
+    }
+
+    @Override
+    protected List<Entry> compute() {
+      try {
+        byte[] bytes = feed.readAllBytes();
+        return switch (format) {
+          case CSV -> new CsvChunkTask(bytes, 0, bytes.length).compute();
+          case BINARY -> parseBinary(bytes);
+        };
+      } catch (IOException exception) {
+        firstError.compareAndSet(null, new UncheckedIOException(exception));
+      } catch (IllegalArgumentException exception) {
+        firstError.compareAndSet(null, exception);
+      }
+      return new ArrayList<>();
+    }
+  }
+
+  // tasks are never serialized
+  @SuppressWarnings("serial")
+  private class CsvChunkTask extends RecursiveTask<List<Entry>> {
+    private final byte[] bytes;
+    private final int from;
+    private final int to;
+
+    CsvChunkTask(final byte[] bytes, final int from, final int to) {
+      this.bytes = bytes;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected List<Entry> compute() {
+      if (to - from <= CSV_CHUNK_SIZE) {
+        return parseChunk();
+      }
+      int middle = lineStartNear(from + (to - from) / 2);
+      // single line longer than the chunk, it cannot be split
+      if (middle == from || middle == to) {
+        return parseChunk();
+      }
+      CsvChunkTask head = new CsvChunkTask(bytes, from, middle);
+      CsvChunkTask tail = new CsvChunkTask(bytes, middle, to);
+      head.fork();
+      List<Entry> tailEntries = tail.compute();
+      List<Entry> entries = head.join();
+      entries.addAll(tailEntries);
+      return entries;
+    }
+
+    // start of the line after the position, or before it when the position is in the last line
+    private int lineStartNear(final int position) {
+      int lineStart = position;
+      while (lineStart < to && bytes[lineStart - 1] != '\n') {
+        lineStart++;
+      }
+      if (lineStart < to) {
+        return lineStart;
+      }
+      lineStart = position;
+      while (lineStart > from && bytes[lineStart - 1] != '\n') {
+        lineStart--;
+      }
+      return lineStart;
+    }
+
+    private List<Entry> parseChunk() {
+      List<Entry> entries = new ArrayList<>();
+      try {
+        new String(bytes, from, to - from, StandardCharsets.UTF_8)
+            .lines()
+            .filter(line -> !line.isBlank() && !line.startsWith("#"))
+            .map(MatchBulkLoader::parseCsvLine)
+            .forEach(entries::add);
+      } catch (IllegalArgumentException exception) {
+        firstError.compareAndSet(null, exception);
+      }
+      return entries;
+    }
+  }
+}
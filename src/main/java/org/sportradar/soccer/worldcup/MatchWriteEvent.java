@@ -0,0 +1,59 @@
+package org.sportradar.soccer.worldcup;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/*
+ JFR event recorded for every write operation (start, update, finish, load) of the scoreboard,
+ its duration includes waiting for the repository lock. Team names are not set for the load,
+ which writes many matches at once.
+*/
+@Name(MatchWriteEvent.NAME)
+@Label("Match Write")
+@Description("Write operation on the live scoreboard")
+@Category("Live Scoreboard")
+@Threshold("1 ms")
+@StackTrace(false)
+class MatchWriteEvent extends jdk.jfr.Event {
+  static final String NAME = "org.sportradar.soccer.worldcup.MatchWrite";
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Home Team")
+  String homeTeam;
+
+  @Label("Away Team")
+  String awayTeam;
+
+  @Label("Board Size")
+  @Description("Number of matches on the board after the operation")
+  int boardSize;
+
+  @Label("Reindex Duration")
+  @Description("Time spent updating ordered views of the matches")
+  @Timespan
+  long reindexDuration;
+
+  void commit(
+      final String operation,
+      final String homeTeam,
+      final String awayTeam,
+      final int boardSize,
+      final long reindexDuration) {
+    end();
+    if (shouldCommit()) {
+      this.operation = operation;
+      this.homeTeam = homeTeam;
+      this.awayTeam = awayTeam;
+      this.boardSize = boardSize;
+      this.reindexDuration = reindexDuration;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,174 @@
+package org.sportradar.soccer.worldcup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/*
+ Offline analyzer of the JFR recording, summarizes Live Scoreboard events into per operation
+ latency percentiles.
+
+ Events faster than the threshold are not recorded, so percentiles are real only for operations
+ recorded with 0 ms threshold. Thresholds are read from jdk.ActiveSetting events of the recording
+ (enabled in JDK default settings) and reported next to the percentiles.
+
+ Usage: java -cp live-scoreboard.jar org.sportradar.soccer.worldcup.ScoreboardRecordingAnalyzer
+ recording.jfr
+*/
+class ScoreboardRecordingAnalyzer {
+  private static final String ACTIVE_SETTING_EVENT = "jdk.ActiveSetting";
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      throw new IllegalArgumentException(
+          String.format("Expected path to the JFR recording, provided: %s", Arrays.toString(args)));
+    }
+    List<OperationLatency> latencies = analyze(Path.of(args[0]));
+    System.out.printf(
+        "%-36s %10s %8s %10s %10s %10s %10s%n",
+        "operation", "threshold", "count", "p50", "p90", "p99", "max");
+    latencies.forEach(
+        latency ->
+            System.out.printf(
+                "%-36s %10s %8d %10s %10s %10s %10s%n",
+                latency.operation(),
+                formatThreshold(latency.threshold()),
+                latency.count(),
+                format(latency.p50()),
+                format(latency.p90()),
+                format(latency.p99()),
+                format(latency.max())));
+    if (latencies.stream().anyMatch(latency -> latency.threshold() == null)) {
+      System.out.println(
+          "Warning: thresholds are not in the recording, record with jdk.ActiveSetting enabled");
+    }
+    if (latencies.stream()
+        .map(OperationLatency::threshold)
+        .anyMatch(threshold -> threshold != null && !threshold.isZero())) {
+      System.out.println(
+          "Warning: percentiles cover only events above the threshold, record with 0 ms threshold"
+              + " for real percentiles");
+    }
+  }
+
+  static List<OperationLatency> analyze(final Path recording) throws IOException {
+    Map<String, List<Duration>> durationsByOperation = new TreeMap<>();
+    Map<String, Long> eventTypeIdsByOperation = new HashMap<>();
+    Map<Long, Duration> thresholdsByEventTypeId = new HashMap<>();
+    try (RecordingFile recordingFile = new RecordingFile(recording)) {
+      while (recordingFile.hasMoreEvents()) {
+        RecordedEvent event = recordingFile.readEvent();
+        if (isThresholdSetting(event)) {
+          thresholdsByEventTypeId.put(event.getLong("id"), parseDuration(event.getString("value")));
+          continue;
+        }
+        String operation = operationOf(event);
+        if (operation != null) {
+          durationsByOperation
+              .computeIfAbsent(operation, key -> new ArrayList<>())
+              .add(event.getDuration());
+          eventTypeIdsByOperation.put(operation, event.getEventType().getId());
+        }
+      }
+    }
+    return durationsByOperation.entrySet().stream()
+        .map(
+            entry ->
+                OperationLatency.from(
+                    entry.getKey(),
+                    thresholdsByEventTypeId.get(eventTypeIdsByOperation.get(entry.getKey())),
+                    entry.getValue()))
+        .toList();
+  }
+
+  private static boolean isThresholdSetting(final RecordedEvent event) {
+    return ACTIVE_SETTING_EVENT.equals(event.getEventType().getName())
+        && "threshold".equals(event.getString("name"));
+  }
+
+  // JFR setting value, e.g. "0 ns" or "20 ms", null when it is not a duration
+  private static Duration parseDuration(final String value) {
+    String[] parts = value.trim().split("\\s+");
+    if (parts.length != 2) {
+      return null;
+    }
+    try {
+      long amount = Long.parseLong(parts[0]);
+      return switch (parts[1]) {
+        case "ns" -> Duration.ofNanos(amount);
+        case "us" -> Duration.ofNanos(Math.multiplyExact(amount, 1_000L));
+        case "ms" -> Duration.ofMillis(amount);
+        case "s" -> Duration.ofSeconds(amount);
+        case "m" -> Duration.ofMinutes(amount);
+        case "h" -> Duration.ofHours(amount);
+        case "d" -> Duration.ofDays(amount);
+        default -> null;
+      };
+    } catch (NumberFormatException | ArithmeticException exception) {
+      return null;
+    }
+  }
+
+  private static String operationOf(final RecordedEvent event) {
+    return switch (event.getEventType().getName()) {
+      case MatchWriteEvent.NAME -> "write " + event.getString("operation");
+      case LockWaitEvent.NAME -> "lock wait " + event.getString("operation");
+      case SummaryPublicationEvent.NAME -> "summary " + groupOf(event);
+      default -> null;
+    };
+  }
+
+  private static String groupOf(final RecordedEvent event) {
+    String group = event.getString("group");
+    return group == null ? "(all matches)" : group;
+  }
+
+  private static String formatThreshold(final Duration threshold) {
+    if (threshold == null) {
+      return "unknown";
+    }
+    long nanos = threshold.toNanos();
+    return nanos % 1_000_000 == 0 ? (nanos / 1_000_000) + " ms" : nanos + " ns";
+  }
+
+  private static String format(final Duration duration) {
+    return String.format("%.3f ms", duration.toNanos() / 1_000_000.0);
+  }
+
+  // threshold is null when it is not in the recording
+  record OperationLatency(
+      String operation,
+      Duration threshold,
+      int count,
+      Duration p50,
+      Duration p90,
+      Duration p99,
+      Duration max) {
+    static OperationLatency from(
+        final String operation, final Duration threshold, final List<Duration> durations) {
+      List<Duration> sorted = durations.stream().sorted().toList();
+      return new OperationLatency(
+          operation,
+          threshold,
+          sorted.size(),
+          percentile(sorted, 50),
+          percentile(sorted, 90),
+          percentile(sorted, 99),
+          sorted.get(sorted.size() - 1));
+    }
+
+    // nearest rank method
+    private static Duration percentile(final List<Duration> sorted, final int percentile) {
+      int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+      return sorted.get(Math.max(rank, 1) - 1);
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package org.sportradar.soccer.worldcup;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
@@ -23,12 +24,12 @@ public class Summary {
     return new Summary(List.of(scores));
   }
 
-  static Summary from(final List<Match> matches) {
-    return new Summary(matches.stream().map(Score::from).toList());
+  static Summary from(final Collection<Match> matches, final TeamDictionary teams) {
+    return new Summary(matches.stream().map(match -> Score.from(match, teams)).toList());
   }
 
-  static Summary from(final Match... matches) {
-    return from(List.of(matches));
+  static Summary from(final TeamDictionary teams, final Match... matches) {
+    return from(List.of(matches), teams);
   }
 
   public List<Score> getScores() {
@@ -49,9 +50,12 @@ public class Summary {
   }
 
   public record Score(String homeTeam, int homeScore, String awayTeam, int awayScore) {
-    static Score from(final Match match) {
+    static Score from(final Match match, final TeamDictionary teams) {
       return new Score(
-          match.getHomeTeam(), match.getHomeScore(), match.getAwayTeam(), match.getAwayScore());
+          teams.nameOf(match.getHomeTeamId()),
+          match.getHomeScore(),
+          teams.nameOf(match.getAwayTeamId()),
+          match.getAwayScore());
     }
   }
 }
@@ -0,0 +1,37 @@
+package org.sportradar.soccer.worldcup;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/*
+ JFR event recorded when cached summary of the view is rebuilt and published to the readers.
+*/
+@Name(SummaryPublicationEvent.NAME)
+@Label("Summary Publication")
+@Description("Rebuild of the cached live scoreboard summary")
+@Category("Live Scoreboard")
+@Threshold("1 ms")
+@StackTrace(false)
+class SummaryPublicationEvent extends jdk.jfr.Event {
+  static final String NAME = "org.sportradar.soccer.worldcup.SummaryPublication";
+
+  @Label("Group")
+  @Description("Group of the summary, empty for the summary of all matches")
+  String group;
+
+  @Label("Summary Size")
+  int summarySize;
+
+  void commit(final String group, final int summarySize) {
+    end();
+    if (shouldCommit()) {
+      this.group = group;
+      this.summarySize = summarySize;
+      commit();
+    }
+  }
+}
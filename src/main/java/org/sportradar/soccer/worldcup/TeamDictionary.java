@@ -0,0 +1,117 @@
+package org.sportradar.soccer.worldcup;
+
+import java.util.Arrays;
+
+/**
+ * Dictionary assigning compact {@code int} ids to the names of teams which are currently on the
+ * scoreboard.
+ *
+ * <p>Ids are dense and reused after release, so they can be used directly as array indexes. Names
+ * are kept in an open addressing table (linear probing) to avoid allocating map entries and boxed
+ * ids per team. Class is not thread safe, synchronization is responsibility of the owner.
+ */
+class TeamDictionary {
+  static final int NO_ID = -1;
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private String[] namesById = new String[INITIAL_CAPACITY];
+  // holds id + 1 of the team, 0 marks empty slot
+  private int[] idSlots = new int[INITIAL_CAPACITY * 2];
+  private int[] releasedIds = new int[INITIAL_CAPACITY];
+  private int releasedCount;
+  private int nextId;
+  private int size;
+
+  int intern(final String name) {
+    int slot = findSlot(name);
+    if (idSlots[slot] != 0) {
+      return idSlots[slot] - 1;
+    }
+    int id = releasedCount > 0 ? releasedIds[--releasedCount] : nextId++;
+    if (id == namesById.length) {
+      namesById = Arrays.copyOf(namesById, namesById.length * 2);
+    }
+    namesById[id] = name;
+    idSlots[slot] = id + 1;
+    if (++size * 2 > idSlots.length) {
+      rehash(idSlots.length * 2);
+    }
+    return id;
+  }
+
+  void release(final int id) {
+    String name = nameOf(id);
+    if (name == null) {
+      return;
+    }
+    removeSlot(findSlot(name));
+    namesById[id] = null;
+    if (releasedCount == releasedIds.length) {
+      releasedIds = Arrays.copyOf(releasedIds, releasedIds.length * 2);
+    }
+    releasedIds[releasedCount++] = id;
+    size--;
+  }
+
+  int idOf(final String name) {
+    return idSlots[findSlot(name)] - 1;
+  }
+
+  boolean contains(final String name) {
+    return idOf(name) != NO_ID;
+  }
+
+  String nameOf(final int id) {
+    return id >= 0 && id < namesById.length ? namesById[id] : null;
+  }
+
+  int size() {
+    return size;
+  }
+
+  private int findSlot(final String name) {
+    int mask = idSlots.length - 1;
+    int slot = indexFor(name, mask);
+    while (idSlots[slot] != 0 && !namesById[idSlots[slot] - 1].equals(name)) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  // backward shift deletion, keeps probe sequences intact without tombstones
+  private void removeSlot(final int slot) {
+    int mask = idSlots.length - 1;
+    int hole = slot;
+    int next = (hole + 1) & mask;
+    while (idSlots[next] != 0) {
+      int home = indexFor(namesById[idSlots[next] - 1], mask);
+      if (((next - home) & mask) >= ((next - hole) & mask)) {
+        idSlots[hole] = idSlots[next];
+        hole = next;
+      }
+      next = (next + 1) & mask;
+    }
+    idSlots[hole] = 0;
+  }
+
+  private void rehash(final int newLength) {
+    int[] oldSlots = idSlots;
+    idSlots = new int[newLength];
+    int mask = newLength - 1;
+    for (int value : oldSlots) {
+      if (value != 0) {
+        int slot = indexFor(namesById[value - 1], mask);
+        while (idSlots[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        idSlots[slot] = value;
+      }
+    }
+  }
+
+  private static int indexFor(final String name, final int mask) {
+    int hash = name.hashCode();
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+}
@@ -10,13 +10,14 @@ class Fixtures {
   public static final String TEAM_C = "team_c";
   public static final String TEAM_D = "team_d";
   public static final String TEAM_BLANK = "  ";
+  public static final TeamDictionary TEAMS = new TeamDictionary();
 
   public static Match havingMatch() {
     return havingMatch(TEAM_A, TEAM_B);
   }
 
   public static Match havingMatch(String homeTeam, String awayTeam) {
-    return new Match(homeTeam, awayTeam, INSTANT_EPOCH);
+    return Match.of(homeTeam, awayTeam, INSTANT_EPOCH, TEAMS);
   }
 
   public static Match havingMatch(String homeTeam, String awayTeam, int homeScore, int awayScore) {
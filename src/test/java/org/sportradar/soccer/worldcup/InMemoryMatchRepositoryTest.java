@@ -0,0 +1,61 @@
+package org.sportradar.soccer.worldcup;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.sportradar.soccer.worldcup.Fixtures.INSTANT_EPOCH;
+import static org.sportradar.soccer.worldcup.Fixtures.TEAM_A;
+import static org.sportradar.soccer.worldcup.Fixtures.TEAM_B;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class InMemoryMatchRepositoryTest {
+
+  @Test
+  @DisplayName("records lock wait event with the operation when the lock is contended")
+  void create_recordsLockWaitEvent_whenLockIsHeldByAnotherThread(@TempDir Path directory)
+      throws IOException, InterruptedException {
+    // given
+    Path recordingFile = directory.resolve("scoreboard.jfr");
+    ReentrantLock lock = new ReentrantLock();
+    InMemoryMatchRepository repository = new InMemoryMatchRepository(lock);
+    try (Recording recording = new Recording()) {
+      recording.enable(LockWaitEvent.NAME).withThreshold(Duration.ZERO);
+      recording.start();
+
+      // when
+      Thread writer;
+      lock.lock();
+      try {
+        writer = new Thread(() -> repository.create(TEAM_A, TEAM_B, null, INSTANT_EPOCH));
+        writer.start();
+        while (!lock.hasQueuedThread(writer)) {
+          Thread.onSpinWait();
+        }
+      } finally {
+        lock.unlock();
+      }
+      writer.join();
+
+      recording.stop();
+      recording.dump(recordingFile);
+    }
+
+    // then
+    List<RecordedEvent> lockWaits =
+        RecordingFile.readAllEvents(recordingFile).stream()
+            .filter(event -> event.getEventType().getName().equals(LockWaitEvent.NAME))
+            .toList();
+    assertEquals(1, lockWaits.size());
+    assertEquals("startMatch", lockWaits.get(0).getString("operation"));
+    assertTrue(repository.findByHomeTeamAndAwayTeam(TEAM_A, TEAM_B).isPresent());
+  }
+}
@@ -6,6 +6,9 @@ import static org.sportradar.soccer.worldcup.Fixtures.TEAM_B;
 import static org.sportradar.soccer.worldcup.Fixtures.TEAM_C;
 import static org.sportradar.soccer.worldcup.Fixtures.TEAM_D;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -231,6 +234,202 @@ class LiveScoreboardTest {
     }
   }
 
+  @Nested
+  @DisplayName("get group summary")
+  class GetGroupSummary {
+    private static final String GROUP_A = "Group A";
+    private static final String GROUP_B = "Group B";
+
+    @ParameterizedTest
+    @DisplayName("fails with exception when null or blank group is passed")
+    @MethodSource("provideInvalidGroups")
+    void throwsException_whenInvalidGroupIsPassed(String group, String expectedMessage) {
+      Exception startException =
+          assertThrows(
+              IllegalArgumentException.class,
+              () -> liveScoreboard.startMatch(TEAM_A, TEAM_B, group));
+      Exception summaryException =
+          assertThrows(IllegalArgumentException.class, () -> liveScoreboard.getSummary(group));
+
+      assertEquals(expectedMessage, startException.getMessage());
+      assertEquals(expectedMessage, summaryException.getMessage());
+    }
+
+    @Test
+    @DisplayName("provides summaries of the groups in the same order as global summary")
+    void succeeds_forMatchesInDifferentGroups() {
+      // given
+      liveScoreboard.startMatch("Mexico", "Canada", GROUP_A);
+      liveScoreboard.startMatch("Spain", "Brazil", GROUP_B);
+      liveScoreboard.startMatch("Germany", "France", GROUP_A);
+      liveScoreboard.startMatch("Uruguay", "Italy", GROUP_B);
+      liveScoreboard.startMatch("Argentina", "Australia");
+
+      liveScoreboard.updateScore("Spain", 10, "Brazil", 2);
+      liveScoreboard.updateScore("Uruguay", 6, "Italy", 6);
+      liveScoreboard.updateScore("Mexico", 0, "Canada", 5);
+      liveScoreboard.updateScore("Argentina", 3, "Australia", 1);
+      liveScoreboard.updateScore("Germany", 2, "France", 2);
+
+      // when
+      Summary groupASummary = liveScoreboard.getSummary(GROUP_A);
+      Summary groupBSummary = liveScoreboard.getSummary(GROUP_B);
+
+      // then
+      assertEquals(
+          Summary.of(
+              new Summary.Score("Mexico", 0, "Canada", 5),
+              new Summary.Score("Germany", 2, "France", 2)),
+          groupASummary);
+      assertEquals(
+          Summary.of(
+              new Summary.Score("Uruguay", 6, "Italy", 6),
+              new Summary.Score("Spain", 10, "Brazil", 2)),
+          groupBSummary);
+      assertEquals(5, liveScoreboard.getSummary().getScores().size());
+    }
+
+    @Test
+    @DisplayName("provides empty summary when all matches of the group were already finished")
+    void providesEmptyList_whenAllGroupMatchesWereFinished() {
+      // given
+      liveScoreboard.startMatch(TEAM_A, TEAM_B, GROUP_A);
+      liveScoreboard.startMatch(TEAM_C, TEAM_D, GROUP_B);
+      liveScoreboard.updateScore(TEAM_C, 1, TEAM_D, 2);
+
+      liveScoreboard.finishMatch(TEAM_A, TEAM_B);
+
+      // when
+      Summary groupASummary = liveScoreboard.getSummary(GROUP_A);
+      Summary unknownGroupSummary = liveScoreboard.getSummary("Group H");
+
+      // then
+      assertTrue(groupASummary.getScores().isEmpty());
+      assertTrue(unknownGroupSummary.getScores().isEmpty());
+      assertEquals(
+          Summary.of(new Summary.Score(TEAM_C, 1, TEAM_D, 2)), liveScoreboard.getSummary(GROUP_B));
+    }
+
+    private static Stream<Arguments> provideInvalidGroups() {
+      String expectedExceptionMessage = "Provided group cannot be null or blank, provided: %s";
+      return Stream.of(
+          Arguments.of(null, String.format(expectedExceptionMessage, (Object) null)),
+          Arguments.of("  ", String.format(expectedExceptionMessage, "  ")));
+    }
+  }
+
+  @Nested
+  @DisplayName("load matches")
+  class LoadMatches {
+
+    @Test
+    @DisplayName("provides expected summaries for matches loaded from the feeds")
+    void succeeds_forMatchesLoadedFromFeeds() {
+      // given
+      liveScoreboard.startMatch("Mexico", "Canada");
+      liveScoreboard.updateScore("Mexico", 0, "Canada", 5);
+
+      // when
+      liveScoreboard.loadMatches(
+          LiveScoreboard.FeedFormat.CSV,
+          feed("Spain,Brazil,10,2,,Group B", "Germany,France,2,2,,Group A"),
+          feed("Uruguay,Italy,6,6,,Group B", "Argentina,Australia,3,1"));
+
+      // then
+      Summary expectedSummary =
+          Summary.of(
+              new Summary.Score("Uruguay", 6, "Italy", 6),
+              new Summary.Score("Spain", 10, "Brazil", 2),
+              new Summary.Score("Mexico", 0, "Canada", 5),
+              new Summary.Score("Argentina", 3, "Australia", 1),
+              new Summary.Score("Germany", 2, "France", 2));
+      assertEquals(expectedSummary, liveScoreboard.getSummary());
+      assertEquals(
+          Summary.of(
+              new Summary.Score("Uruguay", 6, "Italy", 6),
+              new Summary.Score("Spain", 10, "Brazil", 2)),
+          liveScoreboard.getSummary("Group B"));
+    }
+
+    @Test
+    @DisplayName("provides expected summaries for feeds loaded into empty and non-empty views")
+    void succeeds_forFeedsLoadedOneAfterAnother() {
+      // given
+      liveScoreboard.loadMatches(
+          LiveScoreboard.FeedFormat.CSV,
+          feed("Spain,Brazil,1,0,,Group B", "Germany,France,0,0", "Uruguay,Italy,3,3,,Group B"));
+
+      // when
+      liveScoreboard.loadMatches(
+          LiveScoreboard.FeedFormat.CSV, feed("Mexico,Canada,2,0,,Group B", "Japan,Ghana,1,1"));
+
+      // then
+      assertEquals(
+          Summary.of(
+              new Summary.Score("Uruguay", 3, "Italy", 3),
+              new Summary.Score("Japan", 1, "Ghana", 1),
+              new Summary.Score("Mexico", 2, "Canada", 0),
+              new Summary.Score("Spain", 1, "Brazil", 0),
+              new Summary.Score("Germany", 0, "France", 0)),
+          liveScoreboard.getSummary());
+      assertEquals(
+          Summary.of(
+              new Summary.Score("Uruguay", 3, "Italy", 3),
+              new Summary.Score("Mexico", 2, "Canada", 0),
+              new Summary.Score("Spain", 1, "Brazil", 0)),
+          liveScoreboard.getSummary("Group B"));
+    }
+
+    @Test
+    @DisplayName("fails with exception and loads nothing when team is already on the scoreboard")
+    void throwsException_whenTeamIsAlreadyOnScoreboard() {
+      // given
+      liveScoreboard.startMatch(TEAM_A, TEAM_B);
+
+      // when
+      Exception exception =
+          assertThrows(
+              IllegalStateException.class,
+              () ->
+                  liveScoreboard.loadMatches(
+                      LiveScoreboard.FeedFormat.CSV, feed("x,y", TEAM_C + "," + TEAM_B)));
+
+      // then
+      assertEquals(
+          String.format("There is already ongoing match for a team on the scoreboard: %s", TEAM_B),
+          exception.getMessage());
+      assertEquals(
+          Summary.of(new Summary.Score(TEAM_A, 0, TEAM_B, 0)), liveScoreboard.getSummary());
+    }
+
+    @Test
+    @DisplayName("fails with exception when null objects are passed as parameters")
+    void throwsException_whenNullParametersArePassed() {
+      Exception nullFormatException =
+          assertThrows(
+              IllegalArgumentException.class, () -> liveScoreboard.loadMatches(null, feed()));
+      Exception nullFeedException =
+          assertThrows(
+              IllegalArgumentException.class,
+              () -> liveScoreboard.loadMatches(LiveScoreboard.FeedFormat.CSV, (InputStream) null));
+      Exception nullFeedsException =
+          assertThrows(
+              IllegalArgumentException.class,
+              () ->
+                  liveScoreboard.loadMatches(LiveScoreboard.FeedFormat.CSV, (InputStream[]) null));
+
+      assertEquals("Provided feed format cannot be null", nullFormatException.getMessage());
+      assertEquals(
+          "Provided feeds cannot be null, provided: [null]", nullFeedException.getMessage());
+      assertEquals(
+          "Provided feeds cannot be null, provided: null", nullFeedsException.getMessage());
+    }
+
+    private static InputStream feed(String... lines) {
+      return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
   private static Stream<Arguments> getNullTeamNames() {
     String expectedExceptionMessage =
         "Provided team names cannot be null, provided home team: %s away team: %s";
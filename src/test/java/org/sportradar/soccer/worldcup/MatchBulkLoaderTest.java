@@ -0,0 +1,232 @@
+package org.sportradar.soccer.worldcup;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.sportradar.soccer.worldcup.Fixtures.INSTANT_EPOCH;
+import static org.sportradar.soccer.worldcup.Fixtures.TEAM_A;
+import static org.sportradar.soccer.worldcup.Fixtures.TEAM_B;
+import static org.sportradar.soccer.worldcup.Fixtures.TEAM_C;
+import static org.sportradar.soccer.worldcup.Fixtures.TEAM_D;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class MatchBulkLoaderTest {
+  private static final long LOAD_NANOS = 1_000_000_000L;
+  private static final Instant LOAD_TIME = Instant.ofEpochSecond(1);
+
+  @Test
+  @DisplayName("reads CSV feed with optional columns")
+  void read_succeeds_forCsvFeed() {
+    // given
+    InputStream feed =
+        csv(
+            "# fixtures",
+            TEAM_A + "," + TEAM_B,
+            "",
+            TEAM_C + "," + TEAM_D + ",1,2,1970-01-01T00:00:00Z,G");
+
+    // when
+    List<MatchBulkLoader.Entry> entries =
+        MatchBulkLoader.read(LiveScoreboard.FeedFormat.CSV, List.of(feed), LOAD_TIME);
+
+    // then
+    assertEquals(
+        List.of(
+            new MatchBulkLoader.Entry(TEAM_A, TEAM_B, 0, 0, LOAD_NANOS - 1, null),
+            new MatchBulkLoader.Entry(TEAM_C, TEAM_D, 1, 2, 0, "G")),
+        entries);
+  }
+
+  @Test
+  @DisplayName("reads large CSV feeds in order of the feeds and their lines")
+  void read_keepsOrder_forLargeCsvFeeds() {
+    // given
+    int linesPerFeed = 10_000;
+    List<InputStream> feeds = List.of(csvFeed(0, linesPerFeed), csvFeed(1, linesPerFeed));
+
+    // when
+    List<MatchBulkLoader.Entry> entries =
+        MatchBulkLoader.read(LiveScoreboard.FeedFormat.CSV, feeds, LOAD_TIME);
+
+    // then
+    assertEquals(2 * linesPerFeed, entries.size());
+    for (int index = 0; index < entries.size(); index++) {
+      MatchBulkLoader.Entry entry = entries.get(index);
+      String expectedHomeTeam = "home_" + index / linesPerFeed + "_" + index % linesPerFeed;
+      assertEquals(expectedHomeTeam, entry.homeTeam());
+      assertEquals(LOAD_NANOS - (entries.size() - 1 - index), entry.startingTimeNanos());
+    }
+  }
+
+  @Test
+  @DisplayName("reads CSV feed which last line is longer than the chunk")
+  void read_succeeds_whenLastCsvLineIsLongerThanChunk() {
+    // given
+    String longTeam = "x".repeat(70_000);
+    InputStream feed = csv(TEAM_A + "," + TEAM_B, TEAM_C + "," + longTeam, "#" + longTeam);
+
+    // when
+    List<MatchBulkLoader.Entry> entries =
+        MatchBulkLoader.read(LiveScoreboard.FeedFormat.CSV, List.of(feed), LOAD_TIME);
+
+    // then
+    assertEquals(
+        List.of(
+            new MatchBulkLoader.Entry(TEAM_A, TEAM_B, 0, 0, LOAD_NANOS - 1, null),
+            new MatchBulkLoader.Entry(TEAM_C, longTeam, 0, 0, LOAD_NANOS, null)),
+        entries);
+  }
+
+  @Test
+  @DisplayName("reads binary feed")
+  void read_succeeds_forBinaryFeed() throws IOException {
+    // given
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream output = new DataOutputStream(bytes);
+    output.writeInt(MatchBulkLoader.BINARY_MAGIC);
+    writeBinaryRecord(output, TEAM_A, TEAM_B, 65535, 0, MatchBulkLoader.NO_STARTING_TIME, "");
+    writeBinaryRecord(output, TEAM_C, TEAM_D, 3, 1, 5, "G");
+
+    // when
+    List<MatchBulkLoader.Entry> entries =
+        MatchBulkLoader.read(
+            LiveScoreboard.FeedFormat.BINARY,
+            List.of(new ByteArrayInputStream(bytes.toByteArray())),
+            LOAD_TIME);
+
+    // then
+    assertEquals(
+        List.of(
+            new MatchBulkLoader.Entry(TEAM_A, TEAM_B, 65535, 0, LOAD_NANOS - 1, null),
+            new MatchBulkLoader.Entry(TEAM_C, TEAM_D, 3, 1, 5, "G")),
+        entries);
+  }
+
+  @Test
+  @DisplayName("fails with exception when binary feed has unexpected header")
+  void read_throwsException_whenBinaryFeedHasUnexpectedHeader() {
+    InputStream feed = csv(TEAM_A + "," + TEAM_B);
+
+    Exception exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> MatchBulkLoader.read(LiveScoreboard.FeedFormat.BINARY, List.of(feed), LOAD_TIME));
+
+    assertTrue(exception.getMessage().startsWith("Binary match feed has unexpected header"));
+  }
+
+  @Test
+  @DisplayName("fails with exception when binary feed is truncated")
+  void read_throwsException_whenBinaryFeedIsTruncated() throws IOException {
+    // given record cut off after home team
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream output = new DataOutputStream(bytes);
+    output.writeInt(MatchBulkLoader.BINARY_MAGIC);
+    output.writeUTF(TEAM_A);
+    InputStream feed = new ByteArrayInputStream(bytes.toByteArray());
+
+    Exception exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> MatchBulkLoader.read(LiveScoreboard.FeedFormat.BINARY, List.of(feed), LOAD_TIME));
+
+    assertEquals("Binary match feed is truncated or malformed", exception.getMessage());
+  }
+
+  @ParameterizedTest
+  @DisplayName("fails with exception when feed contains invalid match")
+  @MethodSource("provideInvalidFeeds")
+  void read_throwsException_whenFeedContainsInvalidMatch(
+      List<InputStream> feeds,
+      Class<? extends Exception> expectedException,
+      String expectedMessage) {
+    Exception exception =
+        assertThrows(
+            expectedException,
+            () -> MatchBulkLoader.read(LiveScoreboard.FeedFormat.CSV, feeds, INSTANT_EPOCH));
+
+    assertEquals(expectedMessage, exception.getMessage());
+  }
+
+  private static Stream<Arguments> provideInvalidFeeds() {
+    String teamConflictMessage = "Team is part of more than one match in the loaded feeds: %s";
+    return Stream.of(
+        Arguments.of(
+            List.of(csv(TEAM_A + "," + TEAM_B, TEAM_C + "," + TEAM_A)),
+            IllegalStateException.class,
+            String.format(teamConflictMessage, TEAM_A)),
+        Arguments.of(
+            List.of(csv(TEAM_A + "," + TEAM_B), csv(TEAM_B + "," + TEAM_C)),
+            IllegalStateException.class,
+            String.format(teamConflictMessage, TEAM_B)),
+        Arguments.of(
+            List.of(csv(TEAM_A + "," + TEAM_B + ",one,0")),
+            IllegalArgumentException.class,
+            "Malformed line of the match feed: " + TEAM_A + "," + TEAM_B + ",one,0"),
+        Arguments.of(
+            List.of(csv(TEAM_A)),
+            IllegalArgumentException.class,
+            "Malformed line of the match feed: " + TEAM_A),
+        Arguments.of(
+            List.of(csv(TEAM_A + "," + TEAM_B + ",1")),
+            IllegalArgumentException.class,
+            "Malformed line of the match feed: " + TEAM_A + "," + TEAM_B + ",1"),
+        Arguments.of(
+            List.of(csv(TEAM_A + "," + TEAM_B + ",1,0,,  ")),
+            IllegalArgumentException.class,
+            "Provided group cannot be null or blank, provided:   "),
+        Arguments.of(
+            List.of(csv(TEAM_A + "," + TEAM_B + ",-1,0")),
+            IllegalArgumentException.class,
+            "Team score cannot be negative number, provided: -1"),
+        Arguments.of(
+            List.of(csv(TEAM_A + "," + TEAM_A)),
+            IllegalArgumentException.class,
+            String.format(
+                "Team names cannot be the same, provided home team: %s , away team: %s",
+                TEAM_A, TEAM_A)));
+  }
+
+  private static InputStream csv(String... lines) {
+    return new ByteArrayInputStream(
+        Stream.of(lines).collect(Collectors.joining("\n")).getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static InputStream csvFeed(int feed, int lines) {
+    return csv(
+        IntStream.range(0, lines)
+            .mapToObj(line -> String.format("home_%d_%d,away_%d_%d", feed, line, feed, line))
+            .toArray(String[]::new));
+  }
+
+  private static void writeBinaryRecord(
+      DataOutputStream output,
+      String homeTeam,
+      String awayTeam,
+      int homeScore,
+      int awayScore,
+      long startingTimeNanos,
+      String group)
+      throws IOException {
+    output.writeUTF(homeTeam);
+    output.writeUTF(awayTeam);
+    output.writeShort(homeScore);
+    output.writeShort(awayScore);
+    output.writeLong(startingTimeNanos);
+    output.writeUTF(group);
+  }
+}
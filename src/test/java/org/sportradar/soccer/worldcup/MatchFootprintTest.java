@@ -0,0 +1,146 @@
+package org.sportradar.soccer.worldcup;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.ref.Reference;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/*
+ Reports retained heap bytes per live match, run with ./gradlew footprintTest
+
+ Team names are allocated before the measurement starts, reported value is overhead of the
+ scoreboard data structures only. "before" is replica of the v1.0 layout (HashMap with String keys,
+ Match with Instant and two ints, sorted list and set of live teams).
+*/
+@Tag("footprint")
+class MatchFootprintTest {
+  private static final int WARM_UP_MATCHES = 1_000;
+
+  @ParameterizedTest
+  @DisplayName("compact layout retains less memory per live match than v1.0 layout")
+  @ValueSource(ints = {1_000, 100_000, 1_000_000})
+  void compactLayout_retainsLessMemoryPerMatch(int matches) {
+    // given
+    String[] homeTeams = new String[matches];
+    String[] awayTeams = new String[matches];
+    for (int i = 0; i < matches; i++) {
+      homeTeams[i] = "home_team_" + i;
+      awayTeams[i] = "away_team_" + i;
+    }
+
+    // throw-away pass, so one-time allocations (class loading, lambdas) are not measured
+    String[] warmUpHomeTeams = Arrays.copyOf(homeTeams, Math.min(matches, WARM_UP_MATCHES));
+    String[] warmUpAwayTeams = Arrays.copyOf(awayTeams, Math.min(matches, WARM_UP_MATCHES));
+    retainedBytesOfLegacyLayout(warmUpHomeTeams, warmUpAwayTeams);
+    retainedBytesOfCompactLayout(warmUpHomeTeams, warmUpAwayTeams);
+
+    // when
+    long legacyBytes = retainedBytesOfLegacyLayout(homeTeams, awayTeams);
+    long compactBytes = retainedBytesOfCompactLayout(homeTeams, awayTeams);
+
+    // then
+    System.out.printf(
+        "%,9d live matches: before %6.1f B/match, after %6.1f B/match%n",
+        matches, (double) legacyBytes / matches, (double) compactBytes / matches);
+    if (matches >= 100_000) {
+      assertTrue(compactBytes < legacyBytes);
+    }
+  }
+
+  private static long retainedBytesOfCompactLayout(String[] homeTeams, String[] awayTeams) {
+    long before = usedHeap();
+    InMemoryMatchRepository repository = new InMemoryMatchRepository();
+    Instant startingTime = Instant.EPOCH;
+    for (int i = 0; i < homeTeams.length; i++) {
+      repository.create(homeTeams[i], awayTeams[i], null, startingTime.plusNanos(i));
+    }
+    Summary summary = repository.findAllOrderedByTotalScoreAndStartingTime();
+    assertEquals(homeTeams.length, summary.getScores().size());
+    long retained = usedHeap() - before;
+    Reference.reachabilityFence(repository);
+    return retained;
+  }
+
+  private static long retainedBytesOfLegacyLayout(String[] homeTeams, String[] awayTeams) {
+    long before = usedHeap();
+    LegacyRepository repository = new LegacyRepository();
+    Instant startingTime = Instant.EPOCH;
+    for (int i = 0; i < homeTeams.length; i++) {
+      repository.put(new LegacyMatch(homeTeams[i], awayTeams[i], startingTime.plusNanos(i)));
+    }
+    repository.reloadLiveData();
+    assertEquals(homeTeams.length, repository.liveMatchesInOrder.size());
+    long retained = usedHeap() - before;
+    Reference.reachabilityFence(repository);
+    return retained;
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 5; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  private static class LegacyMatch {
+    private final String homeTeam;
+    private final String awayTeam;
+    private final Instant startingTime;
+    private int homeScore;
+    private int awayScore;
+
+    LegacyMatch(String homeTeam, String awayTeam, Instant startingTime) {
+      this.homeTeam = homeTeam;
+      this.awayTeam = awayTeam;
+      this.startingTime = startingTime;
+    }
+
+    Integer getTotalScore() {
+      return homeScore + awayScore;
+    }
+  }
+
+  private static class LegacyRepository {
+    private List<LegacyMatch> liveMatchesInOrder = Collections.emptyList();
+    private Set<String> liveTeams = Collections.emptySet();
+    private final Map<String, LegacyMatch> keyToMatchMap =
+        Collections.synchronizedMap(new HashMap<>());
+
+    void put(LegacyMatch match) {
+      keyToMatchMap.put(match.homeTeam + "-" + match.awayTeam, match);
+    }
+
+    void reloadLiveData() {
+      liveMatchesInOrder =
+          keyToMatchMap.values().stream()
+              .sorted(
+                  Collections.reverseOrder(
+                      (match1, match2) -> {
+                        int totalScoreComparison =
+                            match1.getTotalScore().compareTo(match2.getTotalScore());
+                        if (totalScoreComparison == 0) {
+                          return match1.startingTime.compareTo(match2.startingTime);
+                        }
+                        return totalScoreComparison;
+                      }))
+              .toList();
+      liveTeams =
+          liveMatchesInOrder.stream()
+              .flatMap(match -> Stream.of(match.homeTeam, match.awayTeam))
+              .collect(Collectors.toUnmodifiableSet());
+    }
+  }
+}
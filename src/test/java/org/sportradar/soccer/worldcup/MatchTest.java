@@ -5,6 +5,7 @@ import static org.sportradar.soccer.worldcup.Fixtures.*;
 import static org.sportradar.soccer.worldcup.Fixtures.INSTANT_EPOCH;
 import static org.sportradar.soccer.worldcup.Fixtures.TEAM_A;
 import static org.sportradar.soccer.worldcup.Fixtures.TEAM_BLANK;
+import static org.sportradar.soccer.worldcup.Fixtures.TEAMS;
 import static org.sportradar.soccer.worldcup.Fixtures.havingMatch;
 
 import java.util.stream.Stream;
@@ -20,7 +21,8 @@ class MatchTest {
   @DisplayName("match cannot be created when both teams have the same name")
   void constructor_throwsException_whenBothTeamsHaveTheSameName() {
     Exception exception =
-        assertThrows(IllegalArgumentException.class, () -> Match.of(TEAM_A, TEAM_A, INSTANT_EPOCH));
+        assertThrows(
+            IllegalArgumentException.class, () -> Match.of(TEAM_A, TEAM_A, INSTANT_EPOCH, TEAMS));
 
     String expectedMessage =
         String.format(
@@ -35,13 +37,33 @@ class MatchTest {
   void constructor_throwsException_whenTeamHaveBlankName() {
     Exception exception =
         assertThrows(
-            IllegalArgumentException.class, () -> Match.of(TEAM_BLANK, TEAM_BLANK, INSTANT_EPOCH));
+            IllegalArgumentException.class,
+            () -> Match.of(TEAM_BLANK, TEAM_BLANK, INSTANT_EPOCH, TEAMS));
 
     String expectedMessage = String.format("Team name cannot be blank, provided: %s", TEAM_BLANK);
     String actualMessage = exception.getMessage();
     assertEquals(actualMessage, expectedMessage);
   }
 
+  @Test
+  @DisplayName("match created with scores keeps them and rejects invalid ones before interning")
+  void constructorWithScores_validatesScoresBeforeTeamsAreInterned() {
+    // given
+    TeamDictionary teams = new TeamDictionary();
+
+    // when
+    Match match = Match.of(TEAM_A, TEAM_B, 0L, 3, 2, teams);
+    Exception exception =
+        assertThrows(
+            IllegalArgumentException.class, () -> Match.of(TEAM_C, TEAM_D, 0L, -1, 0, teams));
+
+    // then
+    assertEquals(3, match.getHomeScore());
+    assertEquals(2, match.getAwayScore());
+    assertEquals("Team score cannot be negative number, provided: -1", exception.getMessage());
+    assertFalse(teams.contains(TEAM_C));
+  }
+
   @DisplayName("update score fails with exception when invalid score value is passed")
   @ParameterizedTest
   @MethodSource("provideInvalidScoreValues")
@@ -74,10 +96,15 @@ class MatchTest {
     return Stream.of(
         Arguments.of(-1, 5, String.format(expectedExceptionMessage, -1)),
         Arguments.of(0, -4, String.format(expectedExceptionMessage, -4)),
-        Arguments.of(-4, -5, String.format(expectedExceptionMessage, -4)));
+        Arguments.of(-4, -5, String.format(expectedExceptionMessage, -4)),
+        Arguments.of(65536, 0, "Team score cannot be greater than 65535, provided: 65536"));
   }
 
   private static Stream<Arguments> provideValidScoreValues() {
-    return Stream.of(Arguments.of(0, 0, 0), Arguments.of(0, 1, 1), Arguments.of(10, 5, 15));
+    return Stream.of(
+        Arguments.of(0, 0, 0),
+        Arguments.of(0, 1, 1),
+        Arguments.of(10, 5, 15),
+        Arguments.of(65535, 65535, 131070));
   }
 }
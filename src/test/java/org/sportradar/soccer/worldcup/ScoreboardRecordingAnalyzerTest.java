@@ -0,0 +1,102 @@
+package org.sportradar.soccer.worldcup;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.sportradar.soccer.worldcup.Fixtures.TEAM_A;
+import static org.sportradar.soccer.worldcup.Fixtures.TEAM_B;
+import static org.sportradar.soccer.worldcup.Fixtures.TEAM_C;
+import static org.sportradar.soccer.worldcup.Fixtures.TEAM_D;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ScoreboardRecordingAnalyzerTest {
+
+  @Test
+  @DisplayName("analyze summarizes scoreboard events per operation")
+  void analyze_summarizesEventsPerOperation(@TempDir Path directory) throws IOException {
+    // given
+    Path recordingFile = directory.resolve("scoreboard.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("jdk.ActiveSetting");
+      recording.enable(MatchWriteEvent.NAME).withThreshold(Duration.ZERO);
+      recording.enable(SummaryPublicationEvent.NAME).withThreshold(Duration.ofNanos(1));
+      recording.start();
+
+      LiveScoreboard liveScoreboard = LiveScoreboard.getInstance();
+      liveScoreboard.startMatch(TEAM_A, TEAM_B, "Group A");
+      liveScoreboard.startMatch(TEAM_C, TEAM_D);
+      liveScoreboard.updateScore(TEAM_A, 1, TEAM_B, 0);
+      liveScoreboard.getSummary();
+      liveScoreboard.getSummary("Group A");
+      liveScoreboard.finishMatch(TEAM_A, TEAM_B);
+
+      recording.stop();
+      recording.dump(recordingFile);
+    }
+
+    // when
+    List<ScoreboardRecordingAnalyzer.OperationLatency> latencies =
+        ScoreboardRecordingAnalyzer.analyze(recordingFile);
+
+    // then
+    Map<String, Integer> countsByOperation =
+        latencies.stream()
+            .collect(
+                Collectors.toMap(
+                    ScoreboardRecordingAnalyzer.OperationLatency::operation,
+                    ScoreboardRecordingAnalyzer.OperationLatency::count));
+    assertEquals(
+        Map.of(
+            "write startMatch", 2,
+            "write updateScore", 1,
+            "write finishMatch", 1,
+            "summary (all matches)", 1,
+            "summary Group A", 1),
+        countsByOperation);
+    Map<String, Duration> thresholdsByOperation =
+        latencies.stream()
+            .collect(
+                Collectors.toMap(
+                    ScoreboardRecordingAnalyzer.OperationLatency::operation,
+                    ScoreboardRecordingAnalyzer.OperationLatency::threshold));
+    assertEquals(Duration.ZERO, thresholdsByOperation.get("write startMatch"));
+    assertEquals(Duration.ofNanos(1), thresholdsByOperation.get("summary Group A"));
+    latencies.forEach(
+        latency -> {
+          assertTrue(latency.p50().compareTo(latency.p99()) <= 0);
+          assertTrue(latency.p99().compareTo(latency.max()) <= 0);
+        });
+  }
+
+  @Test
+  @DisplayName("scoreboard profile enables all scoreboard events with thresholds")
+  void scoreboardProfile_enablesAllEventsWithThresholds() throws IOException, ParseException {
+    // given
+    Configuration configuration;
+    try (InputStreamReader reader =
+        new InputStreamReader(
+            getClass().getResourceAsStream("/scoreboard.jfc"), StandardCharsets.UTF_8)) {
+      configuration = Configuration.create(reader);
+    }
+
+    // then
+    Map<String, String> settings = configuration.getSettings();
+    for (String event :
+        List.of(MatchWriteEvent.NAME, LockWaitEvent.NAME, SummaryPublicationEvent.NAME)) {
+      assertEquals("true", settings.get(event + "#enabled"), event);
+      assertNotNull(settings.get(event + "#threshold"), event);
+    }
+  }
+}
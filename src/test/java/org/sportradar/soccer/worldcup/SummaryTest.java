@@ -15,7 +15,7 @@ class SummaryTest {
     Match match = Fixtures.havingMatch(TEAM_A, TEAM_B, 10, 20);
 
     // when
-    Summary actualSummary = Summary.from(match);
+    Summary actualSummary = Summary.from(Fixtures.TEAMS, match);
     Summary expectedSummary = Summary.of(new Summary.Score(TEAM_A, 10, TEAM_B, 20));
 
     // then
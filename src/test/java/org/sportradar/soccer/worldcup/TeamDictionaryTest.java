@@ -0,0 +1,83 @@
+package org.sportradar.soccer.worldcup;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.sportradar.soccer.worldcup.Fixtures.TEAM_A;
+import static org.sportradar.soccer.worldcup.Fixtures.TEAM_B;
+import static org.sportradar.soccer.worldcup.Fixtures.TEAM_C;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TeamDictionaryTest {
+  private TeamDictionary teams;
+
+  @BeforeEach
+  void beforeEach() {
+    teams = new TeamDictionary();
+  }
+
+  @Test
+  @DisplayName("intern returns the same id for the same team name")
+  void intern_returnsSameId_whenTeamIsAlreadyInDictionary() {
+    // given
+    int teamAId = teams.intern(TEAM_A);
+    int teamBId = teams.intern(TEAM_B);
+
+    // then
+    assertNotEquals(teamAId, teamBId);
+    assertEquals(teamAId, teams.intern(TEAM_A));
+    assertEquals(teamAId, teams.idOf(TEAM_A));
+    assertEquals(TEAM_A, teams.nameOf(teamAId));
+    assertEquals(2, teams.size());
+  }
+
+  @Test
+  @DisplayName("released team is removed and its id is reused")
+  void release_removesTeamAndReusesItsId() {
+    // given
+    int teamAId = teams.intern(TEAM_A);
+    teams.intern(TEAM_B);
+
+    // when
+    teams.release(teamAId);
+
+    // then
+    assertFalse(teams.contains(TEAM_A));
+    assertEquals(TeamDictionary.NO_ID, teams.idOf(TEAM_A));
+    assertNull(teams.nameOf(teamAId));
+    assertTrue(teams.contains(TEAM_B));
+    assertEquals(teamAId, teams.intern(TEAM_C));
+  }
+
+  @Test
+  @DisplayName("teams with colliding hash codes are still found after release")
+  void release_keepsCollidingTeamsReachable() {
+    // given "Aa" and "BB" share the same hash code
+    int firstId = teams.intern("Aa");
+    int secondId = teams.intern("BB");
+
+    // when
+    teams.release(firstId);
+
+    // then
+    assertEquals(secondId, teams.idOf("BB"));
+    assertFalse(teams.contains("Aa"));
+  }
+
+  @Test
+  @DisplayName("all teams stay reachable when dictionary grows")
+  void intern_keepsAllTeamsReachable_whenDictionaryGrows() {
+    // given
+    IntStream.range(0, 1_000).forEach(i -> teams.intern("team_" + i));
+
+    // when
+    IntStream.range(0, 1_000).filter(i -> i % 2 == 0).forEach(i -> teams.release(i));
+
+    // then
+    assertEquals(500, teams.size());
+    IntStream.range(0, 1_000)
+        .forEach(i -> assertEquals(i % 2 != 0, teams.contains("team_" + i), "team_" + i));
+  }
+}